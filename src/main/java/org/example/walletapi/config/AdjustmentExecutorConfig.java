@@ -0,0 +1,24 @@
+package org.example.walletapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AdjustmentExecutorConfig {
+
+    /**
+     * Runs bulk adjustment partitions. On shutdown the workers are interrupted rather than
+     * drained; every committed chunk is checkpointed, so the job resumes on the next start.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor adjustmentExecutor(@Value("${wallet.adjustment.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("adjustment-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
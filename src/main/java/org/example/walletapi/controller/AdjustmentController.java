@@ -0,0 +1,48 @@
+package org.example.walletapi.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.walletapi.dto.AdjustmentJobResponseDto;
+import org.example.walletapi.dto.AdjustmentRequestDto;
+import org.example.walletapi.service.AdjustmentJobService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/adjustments")
+@RequiredArgsConstructor
+public class AdjustmentController {
+
+    private final AdjustmentJobService adjustmentJobService;
+
+    @PostMapping
+    public ResponseEntity<AdjustmentJobResponseDto> createAdjustment(
+            @Valid @RequestBody AdjustmentRequestDto request) {
+
+        log.debug("Creating adjustment job: {}", request);
+        return ResponseEntity.accepted().body(adjustmentJobService.createJob(request));
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<AdjustmentJobResponseDto> resumeAdjustment(
+            @PathVariable UUID jobId) {
+
+        log.debug("Resuming adjustment job: {}", jobId);
+        return ResponseEntity.accepted().body(adjustmentJobService.resumeJob(jobId));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AdjustmentJobResponseDto> getAdjustment(
+            @PathVariable UUID jobId) {
+
+        return ResponseEntity.ok(adjustmentJobService.getProgress(jobId));
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.walletapi.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.walletapi.dto.AdjustmentJobResponseDto;
+import org.example.walletapi.service.AdjustmentJobService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Exposes adjustment job progress under {@code /management/adjustments}.
+ */
+@Component
+@Endpoint(id = "adjustments")
+@RequiredArgsConstructor
+public class AdjustmentJobEndpoint {
+
+    private final AdjustmentJobService adjustmentJobService;
+
+    @ReadOperation
+    public List<AdjustmentJobResponseDto> jobs() {
+        return adjustmentJobService.getAllProgress();
+    }
+
+    @ReadOperation
+    public AdjustmentJobResponseDto job(@Selector UUID jobId) {
+        return adjustmentJobService.getProgress(jobId);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.walletapi.dto.WalletBalanceResponseDto;
 import org.example.walletapi.dto.WalletOperationRequestDto;
+import org.example.walletapi.exception.RejectionResponses;
+import org.example.walletapi.service.OperationResult;
 import org.example.walletapi.service.WalletServiceImpl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,13 +24,18 @@ import java.util.UUID;
 public class WalletController {
 
     private final WalletServiceImpl walletService;
+    private final RejectionResponses rejectionResponses;
 
     @PostMapping("/wallet")
-    public ResponseEntity<Void> processWalletOperation(
+    public ResponseEntity<byte[]> processWalletOperation(
             @Valid @RequestBody WalletOperationRequestDto request) {
 
         log.debug("Processing wallet operation: {}", request);
-        walletService.processOperation(request);
+        OperationResult result = walletService.processOperation(request);
+        if (result instanceof OperationResult.Rejected rejected) {
+            log.debug("Wallet operation rejected: {} for wallet {}", rejected, request.getWalletId());
+            return rejectionResponses.forRejection(rejected);
+        }
         return ResponseEntity.ok().build();
     }
 
@@ -37,11 +44,13 @@ public class WalletController {
             @PathVariable UUID walletId) {
 
         log.debug("Getting balance for wallet: {}", walletId);
-        var balance = walletService.getBalance(walletId);
+        var wallet = walletService.getWallet(walletId);
         return ResponseEntity.ok(
                 WalletBalanceResponseDto.builder()
                         .walletId(walletId)
-                        .balance(balance)
+                        .balance(wallet.getBalance())
+                        .heldBalance(wallet.getHeldBalance())
+                        .availableBalance(wallet.getAvailableBalance())
                         .build()
         );
     }
@@ -0,0 +1,26 @@
+package org.example.walletapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.walletapi.entity.AdjustmentJob;
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AdjustmentJobResponseDto {
+    private UUID jobId;
+    private AdjustmentJob.Status status;
+    private int partitions;
+    private int partitionsDone;
+    private long walletsAdjusted;
+    private long walletsSkipped;
+    private Instant createdAt;
+    private Instant completedAt;
+}
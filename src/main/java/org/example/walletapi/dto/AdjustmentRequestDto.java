@@ -0,0 +1,49 @@
+package org.example.walletapi.dto;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.walletapi.entity.AdjustmentJob;
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ValidAdjustmentRequest
+public class AdjustmentRequestDto {
+    @NotNull(message = "ruleType must not be null")
+    private AdjustmentJob.RuleType ruleType;
+
+    @NotNull(message = "direction must not be null")
+    private AdjustmentJob.Direction direction;
+
+    @Positive(message = "amount must be positive")
+    @Digits(integer = 19, fraction = 0, message = "amount must be a whole number of at most 19 digits")
+    private BigDecimal amount;
+
+    @Positive(message = "percent must be positive")
+    @Digits(integer = 5, fraction = 4, message = "percent must have at most 5 integer and 4 fraction digits")
+    private BigDecimal percent;
+
+    @PositiveOrZero(message = "floor must not be negative")
+    @Digits(integer = 19, fraction = 0, message = "floor must be a whole number of at most 19 digits")
+    private BigDecimal floor;
+
+    @Positive(message = "cap must be positive")
+    @Digits(integer = 19, fraction = 0, message = "cap must be a whole number of at most 19 digits")
+    private BigDecimal cap;
+
+    @PositiveOrZero(message = "minBalance must not be negative")
+    @Digits(integer = 19, fraction = 0, message = "minBalance must be a whole number of at most 19 digits")
+    private BigDecimal minBalance;
+
+    @PositiveOrZero(message = "maxBalance must not be negative")
+    @Digits(integer = 19, fraction = 0, message = "maxBalance must be a whole number of at most 19 digits")
+    private BigDecimal maxBalance;
+}
@@ -0,0 +1,83 @@
+package org.example.walletapi.dto;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import org.example.walletapi.entity.AdjustmentJob;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.math.BigDecimal;
+
+/**
+ * Checks the fields each adjustment rule type requires or ignores, and that the
+ * floor/cap and balance selection ranges are not inverted. Violations are reported
+ * on the offending field, so clients can map them back to their input.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = ValidAdjustmentRequest.Validator.class)
+public @interface ValidAdjustmentRequest {
+    String message() default "invalid adjustment request";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validator implements ConstraintValidator<ValidAdjustmentRequest, AdjustmentRequestDto> {
+
+        @Override
+        public boolean isValid(AdjustmentRequestDto request, ConstraintValidatorContext context) {
+            boolean valid = true;
+            context.disableDefaultConstraintViolation();
+
+            if (request.getRuleType() == AdjustmentJob.RuleType.FIXED) {
+                valid &= require(context, "amount", request.getAmount(), "amount must not be null for FIXED rules");
+                valid &= forbid(context, "percent", request.getPercent(), "percent must be null for FIXED rules");
+                valid &= forbid(context, "floor", request.getFloor(), "floor must be null for FIXED rules");
+                valid &= forbid(context, "cap", request.getCap(), "cap must be null for FIXED rules");
+            } else if (request.getRuleType() == AdjustmentJob.RuleType.PERCENTAGE) {
+                valid &= require(context, "percent", request.getPercent(), "percent must not be null for PERCENTAGE rules");
+                valid &= forbid(context, "amount", request.getAmount(), "amount must be null for PERCENTAGE rules");
+            }
+
+            if (isGreater(request.getFloor(), request.getCap())) {
+                reject(context, "floor", "floor must not be greater than cap");
+                valid = false;
+            }
+            if (isGreater(request.getMinBalance(), request.getMaxBalance())) {
+                reject(context, "minBalance", "minBalance must not be greater than maxBalance");
+                valid = false;
+            }
+            return valid;
+        }
+
+        private static boolean require(ConstraintValidatorContext context, String field, Object value, String message) {
+            if (value == null) {
+                reject(context, field, message);
+                return false;
+            }
+            return true;
+        }
+
+        private static boolean forbid(ConstraintValidatorContext context, String field, Object value, String message) {
+            if (value != null) {
+                reject(context, field, message);
+                return false;
+            }
+            return true;
+        }
+
+        private static boolean isGreater(BigDecimal lower, BigDecimal upper) {
+            return lower != null && upper != null && lower.compareTo(upper) > 0;
+        }
+
+        private static void reject(ConstraintValidatorContext context, String field, String message) {
+            context.buildConstraintViolationWithTemplate(message)
+                    .addPropertyNode(field)
+                    .addConstraintViolation();
+        }
+    }
+}
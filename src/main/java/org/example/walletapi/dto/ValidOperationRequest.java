@@ -0,0 +1,54 @@
+package org.example.walletapi.dto;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Checks the fields each operation type requires. Violations are reported on the
+ * missing field itself, so clients see the same {@code amount} error as a plain {@code @NotNull}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = ValidOperationRequest.Validator.class)
+public @interface ValidOperationRequest {
+    String message() default "invalid wallet operation";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validator implements ConstraintValidator<ValidOperationRequest, WalletOperationRequestDto> {
+
+        @Override
+        public boolean isValid(WalletOperationRequestDto request, ConstraintValidatorContext context) {
+            WalletOperationRequestDto.OperationType type = request.getOperationType();
+            if (type == null) {
+                return true;
+            }
+
+            boolean valid = true;
+            context.disableDefaultConstraintViolation();
+            if (type.requiresAmount() && request.getAmount() == null) {
+                reject(context, "amount", "amount must not be null");
+                valid = false;
+            }
+            if (type.isHoldOperation() && request.getHoldId() == null) {
+                reject(context, "holdId", "holdId must not be null for HOLD, CAPTURE and RELEASE");
+                valid = false;
+            }
+            return valid;
+        }
+
+        private static void reject(ConstraintValidatorContext context, String field, String message) {
+            context.buildConstraintViolationWithTemplate(message)
+                    .addPropertyNode(field)
+                    .addConstraintViolation();
+        }
+    }
+}
@@ -18,4 +18,10 @@ public class WalletBalanceResponseDto {
 
     @JsonProperty("balance")
     private BigDecimal balance;
+
+    @JsonProperty("heldBalance")
+    private BigDecimal heldBalance;
+
+    @JsonProperty("availableBalance")
+    private BigDecimal availableBalance;
 }
@@ -13,6 +13,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@ValidOperationRequest
 public class WalletOperationRequestDto {
     @NotNull(message = "walletId must not be null")
     private UUID walletId;
@@ -20,12 +21,28 @@ public class WalletOperationRequestDto {
     @NotNull(message = "operationType must not be null")
     private OperationType operationType;
 
-    @NotNull(message = "amount must not be null")
     @Positive(message = "amount must be positive")
     private BigDecimal amount;
 
+    /**
+     * Identifies an active hold. It is not an idempotency key: once the hold is captured,
+     * released or expired, the same id may be used for a new hold.
+     */
+    private UUID holdId;
+
     public enum OperationType {
         DEPOSIT,
-        WITHDRAW
+        WITHDRAW,
+        HOLD,
+        CAPTURE,
+        RELEASE;
+
+        boolean requiresAmount() {
+            return this != CAPTURE && this != RELEASE;
+        }
+
+        boolean isHoldOperation() {
+            return this == HOLD || this == CAPTURE || this == RELEASE;
+        }
     }
 }
@@ -0,0 +1,81 @@
+package org.example.walletapi.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "adjustment_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdjustmentJob {
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false)
+    private RuleType ruleType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "direction", nullable = false)
+    private Direction direction;
+
+    @Column(name = "amount")
+    private BigDecimal amount;
+
+    @Column(name = "percent")
+    private BigDecimal percent;
+
+    @Column(name = "floor_amount")
+    private BigDecimal floorAmount;
+
+    @Column(name = "cap_amount")
+    private BigDecimal capAmount;
+
+    @Column(name = "min_balance")
+    private BigDecimal minBalance;
+
+    @Column(name = "max_balance")
+    private BigDecimal maxBalance;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public enum RuleType {
+        FIXED,
+        PERCENTAGE
+    }
+
+    public enum Direction {
+        CREDIT,
+        DEBIT
+    }
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.walletapi.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Checkpoint for one slice of the wallet id space within an adjustment job.
+ * Wallets with ids in {@code [nextWalletId, upperBound]} are still to be processed.
+ */
+@Entity
+@Table(name = "adjustment_partitions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdjustmentPartition {
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(name = "next_wallet_id", nullable = false)
+    private UUID nextWalletId;
+
+    @Column(name = "upper_bound", nullable = false)
+    private UUID upperBound;
+
+    @Column(name = "adjusted_count", nullable = false)
+    private long adjustedCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private long skippedCount;
+
+    @Column(name = "done", nullable = false)
+    private boolean done;
+}
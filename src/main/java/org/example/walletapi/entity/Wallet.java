@@ -27,4 +27,12 @@ public class Wallet {
     @Column(name = "balance", nullable = false)
     @Builder.Default
     private BigDecimal balance = BigDecimal.ZERO;
+
+    @Column(name = "held_balance", nullable = false)
+    @Builder.Default
+    private BigDecimal heldBalance = BigDecimal.ZERO;
+
+    public BigDecimal getAvailableBalance() {
+        return balance.subtract(heldBalance);
+    }
 }
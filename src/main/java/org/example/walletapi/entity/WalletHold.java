@@ -0,0 +1,36 @@
+package org.example.walletapi.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "wallet_holds")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WalletHold {
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "wallet_id", nullable = false)
+    private UUID walletId;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
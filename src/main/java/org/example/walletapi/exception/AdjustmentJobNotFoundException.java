@@ -3,5 +3,5 @@ package org.example.walletapi.exception;
 import lombok.experimental.StandardException;
 
 @StandardException
-public class InsufficientFundsException extends RuntimeException {
+public class AdjustmentJobNotFoundException extends StacklessException {
 }
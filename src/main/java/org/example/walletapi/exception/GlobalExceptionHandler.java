@@ -1,5 +1,6 @@
 package org.example.walletapi.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.example.walletapi.dto.ErrorResponseDto;
@@ -9,7 +10,6 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.context.request.WebRequest;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -17,7 +17,7 @@ import java.util.stream.Collectors;
 public class GlobalExceptionHandler {
     @ExceptionHandler(WalletNotFoundException.class)
     public ResponseEntity<ErrorResponseDto> handleWalletNotFound(
-            WalletNotFoundException e, WebRequest request) {
+            WalletNotFoundException e, HttpServletRequest request) {
 
         log.warn("Wallet not found: {}", e.getMessage());
 
@@ -25,31 +25,31 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.NOT_FOUND.value())
                 .error("Wallet not found")
                 .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(request.getRequestURI())
                 .build();
 
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
-    @ExceptionHandler(InsufficientFundsException.class)
-    public ResponseEntity<ErrorResponseDto> handleInsufficientFunds(
-            InsufficientFundsException e, WebRequest request) {
+    @ExceptionHandler(AdjustmentJobNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleAdjustmentJobNotFound(
+            AdjustmentJobNotFoundException e, HttpServletRequest request) {
 
-        log.warn("Insufficient funds: {}", e.getMessage());
+        log.warn("Adjustment job not found: {}", e.getMessage());
 
         ErrorResponseDto error = ErrorResponseDto.builder()
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Insufficient funds")
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Adjustment job not found")
                 .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(request.getRequestURI())
                 .build();
 
-        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDto> handleValidationExceptions(
-            MethodArgumentNotValidException e, WebRequest request) {
+            MethodArgumentNotValidException e, HttpServletRequest request) {
 
         log.warn("Validation failed: {}", e.getMessage());
 
@@ -66,7 +66,7 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error("Validation failed")
                 .message("Request validation failed")
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(request.getRequestURI())
                 .validationErrors(validationErrors)
                 .build();
 
@@ -75,7 +75,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponseDto> handleConstraintViolation(
-            ConstraintViolationException e, WebRequest request) {
+            ConstraintViolationException e, HttpServletRequest request) {
 
         log.warn("Constraint violation: {}", e.getMessage());
 
@@ -83,7 +83,7 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error("Constraint violation")
                 .message(e.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(request.getRequestURI())
                 .build();
 
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
@@ -91,7 +91,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponseDto> handleHttpMessageNotReadable(
-            HttpMessageNotReadableException e, WebRequest request) {
+            HttpMessageNotReadableException e, HttpServletRequest request) {
 
         log.warn("Invalid JSON: {}", e.getMessage());
 
@@ -99,7 +99,7 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST.value())
                 .error("Invalid JSON")
                 .message("Request body contains invalid JSON")
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(request.getRequestURI())
                 .build();
 
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
@@ -107,7 +107,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleGenericException(
-            Exception e, WebRequest request) {
+            Exception e, HttpServletRequest request) {
 
         log.error("Unexpected error occurred", e);
 
@@ -115,7 +115,7 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .error("Internal server error")
                 .message("An unexpected error occurred")
-                .path(request.getDescription(false).replace("uri=", ""))
+                .path(request.getRequestURI())
                 .build();
 
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
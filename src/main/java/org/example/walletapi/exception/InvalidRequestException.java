@@ -3,5 +3,5 @@ package org.example.walletapi.exception;
 import lombok.experimental.StandardException;
 
 @StandardException
-public class InvalidRequestException extends RuntimeException {
+public class InvalidRequestException extends StacklessException {
 }
@@ -0,0 +1,63 @@
+package org.example.walletapi.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.walletapi.dto.ErrorResponseDto;
+import org.example.walletapi.service.OperationResult;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Error responses for expected business rejections, serialised once at startup.
+ * A declined operation returns a shared response instead of building a DTO per request.
+ */
+@Component
+public class RejectionResponses {
+    private static final String OPERATION_PATH = "/api/v1/wallet";
+
+    private final Map<OperationResult.Rejected, ResponseEntity<byte[]>> responses =
+            new EnumMap<>(OperationResult.Rejected.class);
+
+    public RejectionResponses(ObjectMapper objectMapper) throws JsonProcessingException {
+        // Exhaustive switch: a new Rejected constant does not compile until it has a response.
+        for (OperationResult.Rejected rejected : OperationResult.Rejected.values()) {
+            responses.put(rejected, switch (rejected) {
+                case WALLET_NOT_FOUND -> build(objectMapper,
+                        HttpStatus.NOT_FOUND, "Wallet not found", "Wallet does not exist");
+                case INSUFFICIENT_FUNDS -> build(objectMapper,
+                        HttpStatus.BAD_REQUEST, "Insufficient funds", "Balance is lower than the requested amount");
+                case WALLET_BUSY -> build(objectMapper,
+                        HttpStatus.SERVICE_UNAVAILABLE, "Wallet busy", "Could not acquire lock for wallet, retry later");
+                case HOLD_NOT_FOUND -> build(objectMapper,
+                        HttpStatus.NOT_FOUND, "Hold not found", "Hold does not exist, has expired or belongs to another wallet");
+                case HOLD_ALREADY_EXISTS -> build(objectMapper,
+                        HttpStatus.CONFLICT, "Hold already exists", "A hold with this holdId has already been placed");
+                case CAPTURE_EXCEEDS_HOLD -> build(objectMapper,
+                        HttpStatus.BAD_REQUEST, "Capture exceeds hold", "Captured amount is greater than the held amount");
+            });
+        }
+    }
+
+    public ResponseEntity<byte[]> forRejection(OperationResult.Rejected rejected) {
+        return responses.get(rejected);
+    }
+
+    private static ResponseEntity<byte[]> build(ObjectMapper objectMapper, HttpStatus status,
+                                                String error, String message) throws JsonProcessingException {
+        ErrorResponseDto body = ErrorResponseDto.builder()
+                .timestamp(null)
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .path(OPERATION_PATH)
+                .build();
+
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(objectMapper.writeValueAsBytes(body));
+    }
+}
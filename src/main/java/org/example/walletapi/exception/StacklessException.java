@@ -0,0 +1,16 @@
+package org.example.walletapi.exception;
+
+import lombok.experimental.StandardException;
+
+/**
+ * Base for exceptions that describe a client-facing outcome rather than a bug.
+ * Stack traces are never read for these, so filling them in is skipped.
+ */
+@StandardException
+public abstract class StacklessException extends RuntimeException {
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
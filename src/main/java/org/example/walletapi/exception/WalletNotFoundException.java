@@ -3,5 +3,5 @@ package org.example.walletapi.exception;
 import lombok.experimental.StandardException;
 
 @StandardException
-public class WalletNotFoundException extends RuntimeException {
+public class WalletNotFoundException extends StacklessException {
 }
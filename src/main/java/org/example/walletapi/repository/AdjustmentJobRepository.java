@@ -0,0 +1,16 @@
+package org.example.walletapi.repository;
+
+import org.example.walletapi.entity.AdjustmentJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AdjustmentJobRepository extends JpaRepository<AdjustmentJob, UUID> {
+
+    List<AdjustmentJob> findByStatus(AdjustmentJob.Status status);
+
+    List<AdjustmentJob> findTop20ByOrderByCreatedAtDesc();
+}
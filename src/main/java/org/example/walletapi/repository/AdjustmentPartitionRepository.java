@@ -0,0 +1,48 @@
+package org.example.walletapi.repository;
+
+import org.example.walletapi.entity.AdjustmentPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import jakarta.persistence.LockModeType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AdjustmentPartitionRepository extends JpaRepository<AdjustmentPartition, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM AdjustmentPartition p WHERE p.id = :id")
+    Optional<AdjustmentPartition> findByIdForUpdate(@Param("id") UUID id);
+
+    List<AdjustmentPartition> findByJobId(UUID jobId);
+
+    List<AdjustmentPartition> findByJobIdAndDoneFalse(UUID jobId);
+
+    boolean existsByJobIdAndDoneFalse(UUID jobId);
+
+    @Query("""
+            SELECT p.jobId AS jobId,
+                   COUNT(p) AS partitions,
+                   SUM(CASE WHEN p.done = true THEN 1 ELSE 0 END) AS partitionsDone,
+                   SUM(p.adjustedCount) AS walletsAdjusted,
+                   SUM(p.skippedCount) AS walletsSkipped
+            FROM AdjustmentPartition p
+            WHERE p.jobId IN :jobIds
+            GROUP BY p.jobId
+            """)
+    List<JobTotals> sumByJobIds(@Param("jobIds") Collection<UUID> jobIds);
+
+    interface JobTotals {
+        UUID getJobId();
+        Long getPartitions();
+        Long getPartitionsDone();
+        Long getWalletsAdjusted();
+        Long getWalletsSkipped();
+    }
+}
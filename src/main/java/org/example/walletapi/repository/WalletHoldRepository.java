@@ -0,0 +1,71 @@
+package org.example.walletapi.repository;
+
+import org.example.walletapi.entity.WalletHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@Repository
+public interface WalletHoldRepository extends JpaRepository<WalletHold, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM WalletHold h WHERE h.id = :id")
+    Optional<WalletHold> findByIdForUpdate(@Param("id") UUID id);
+
+    @Modifying
+    @Query(value = "INSERT INTO wallet_holds (id, wallet_id, amount, expires_at) "
+            + "VALUES (:id, :walletId, :amount, :expiresAt) ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("walletId") UUID walletId,
+                       @Param("amount") BigDecimal amount,
+                       @Param("expiresAt") Instant expiresAt);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT h.id AS id, h.expiresAt AS expiresAt FROM WalletHold h")
+    Stream<HoldExpiry> streamAllExpiries();
+
+    /**
+     * Locks the wallets owning the given holds in id order, so expiry takes row locks
+     * in the same wallet-then-hold order as live operations.
+     */
+    @Query(value = "SELECT w.id FROM wallets w WHERE w.id IN "
+            + "(SELECT h.wallet_id FROM wallet_holds h WHERE h.id IN (:ids)) "
+            + "ORDER BY w.id FOR UPDATE", nativeQuery = true)
+    List<UUID> lockWalletsOfHolds(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = """
+            WITH expired AS (
+                DELETE FROM wallet_holds
+                WHERE id IN (:ids) AND expires_at <= :now
+                RETURNING wallet_id, amount
+            ), totals AS (
+                SELECT wallet_id, SUM(amount) AS amount FROM expired GROUP BY wallet_id
+            )
+            UPDATE wallets w SET held_balance = w.held_balance - t.amount
+            FROM totals t
+            WHERE w.id = t.wallet_id
+            """, nativeQuery = true)
+    int releaseExpired(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    interface HoldExpiry {
+        UUID getId();
+        Instant getExpiresAt();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,4 +20,55 @@ public interface WalletRepository extends JpaRepository<Wallet, UUID> {
     Optional<Wallet> findByIdForUpdate(@Param("id") UUID id);
 
     Optional<Wallet> findById(UUID id);
+
+    /**
+     * Applies one bulk adjustment chunk: locks the next {@code limit} wallets in
+     * {@code [from, upper]} in id order and adds {@code sign * delta} to each matching balance, where
+     * {@code delta = LEAST(cap, GREATEST(floor, ROUND(balance * rate)))}. Debits skip wallets whose
+     * available balance is below the delta; those are counted as skipped. The caller owns the
+     * transaction and commits the chunk together with its checkpoint.
+     */
+    @Query(value = """
+            WITH chunk AS (
+                SELECT id, balance, held_balance,
+                       LEAST(:cap, GREATEST(:floor, ROUND(balance * :rate))) AS delta
+                FROM wallets
+                WHERE id >= :from AND id <= :upper
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE
+            ), adjusted AS (
+                UPDATE wallets w SET balance = w.balance + :sign * c.delta
+                FROM chunk c
+                WHERE w.id = c.id
+                  AND c.delta > 0
+                  AND c.balance BETWEEN :minBalance AND :maxBalance
+                  AND (:sign > 0 OR c.balance - c.held_balance >= c.delta)
+                RETURNING w.id
+            )
+            SELECT (SELECT id FROM chunk ORDER BY id DESC LIMIT 1) AS "lastId",
+                   (SELECT COUNT(*) FROM chunk) AS "scanned",
+                   (SELECT COUNT(*) FROM adjusted) AS "adjusted",
+                   (SELECT COUNT(*) FROM chunk c
+                    WHERE :sign < 0
+                      AND c.delta > 0
+                      AND c.balance BETWEEN :minBalance AND :maxBalance
+                      AND c.balance - c.held_balance < c.delta) AS "skipped"
+            """, nativeQuery = true)
+    AdjustmentChunk adjustChunk(@Param("from") UUID from,
+                                @Param("upper") UUID upper,
+                                @Param("limit") int limit,
+                                @Param("rate") BigDecimal rate,
+                                @Param("floor") BigDecimal floor,
+                                @Param("cap") BigDecimal cap,
+                                @Param("sign") int sign,
+                                @Param("minBalance") BigDecimal minBalance,
+                                @Param("maxBalance") BigDecimal maxBalance);
+
+    interface AdjustmentChunk {
+        UUID getLastId();
+        Long getScanned();
+        Long getAdjusted();
+        Long getSkipped();
+    }
 }
\ No newline at end of file
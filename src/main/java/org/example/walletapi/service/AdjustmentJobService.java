@@ -0,0 +1,282 @@
+package org.example.walletapi.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.example.walletapi.dto.AdjustmentJobResponseDto;
+import org.example.walletapi.dto.AdjustmentRequestDto;
+import org.example.walletapi.entity.AdjustmentJob;
+import org.example.walletapi.entity.AdjustmentPartition;
+import org.example.walletapi.exception.AdjustmentJobNotFoundException;
+import org.example.walletapi.repository.AdjustmentJobRepository;
+import org.example.walletapi.repository.AdjustmentPartitionRepository;
+import org.example.walletapi.repository.WalletRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies an adjustment rule to every selected wallet with set-based chunk updates.
+ * The wallet id space is split into fixed partitions that workers walk in keyset order.
+ * Each chunk commits together with its partition checkpoint, so a job resumes after a crash
+ * without applying any chunk twice.
+ */
+@Slf4j
+@Service
+public class AdjustmentJobService {
+    private static final int PARTITION_BITS = 4;
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final AdjustmentJobRepository jobRepository;
+    private final AdjustmentPartitionRepository partitionRepository;
+    private final WalletRepository walletRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor workers;
+    private final Set<UUID> runningJobs = ConcurrentHashMap.newKeySet();
+    private final int chunkSize;
+    private final long throttleMillis;
+
+    public AdjustmentJobService(AdjustmentJobRepository jobRepository,
+                                AdjustmentPartitionRepository partitionRepository,
+                                WalletRepository walletRepository,
+                                TransactionTemplate transactionTemplate,
+                                ThreadPoolTaskExecutor adjustmentExecutor,
+                                @Value("${wallet.adjustment.chunkSize:1000}") int chunkSize,
+                                @Value("${wallet.adjustment.throttle:50}") long throttleMillis) {
+        this.jobRepository = jobRepository;
+        this.partitionRepository = partitionRepository;
+        this.walletRepository = walletRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.workers = adjustmentExecutor;
+        this.chunkSize = chunkSize;
+        this.throttleMillis = throttleMillis;
+    }
+
+    public AdjustmentJobResponseDto createJob(AdjustmentRequestDto request) {
+        AdjustmentJob job = transactionTemplate.execute(status -> {
+            AdjustmentJob created = jobRepository.saveAndFlush(AdjustmentJob.builder()
+                    .id(UUID.randomUUID())
+                    .ruleType(request.getRuleType())
+                    .direction(request.getDirection())
+                    .amount(request.getAmount())
+                    .percent(request.getPercent())
+                    .floorAmount(request.getFloor())
+                    .capAmount(request.getCap())
+                    .minBalance(request.getMinBalance())
+                    .maxBalance(request.getMaxBalance())
+                    .status(AdjustmentJob.Status.RUNNING)
+                    .createdAt(Instant.now())
+                    .build());
+            // Reload the rule as stored, so workers apply the same rounded values a resume would.
+            entityManager.refresh(created);
+            partitionRepository.saveAll(createPartitions(created.getId()));
+            return created;
+        });
+
+        log.info("Created adjustment job {}: {} {}", job.getId(), job.getDirection(), job.getRuleType());
+        start(job);
+        return getProgress(job.getId());
+    }
+
+    public AdjustmentJobResponseDto resumeJob(UUID jobId) {
+        AdjustmentJob job = findJob(jobId);
+        if (job.getStatus() != AdjustmentJob.Status.COMPLETED) {
+            start(job);
+        }
+        return getProgress(jobId);
+    }
+
+    public AdjustmentJobResponseDto getProgress(UUID jobId) {
+        return toResponses(List.of(findJob(jobId))).get(0);
+    }
+
+    /**
+     * Returns every running job plus the most recent ones, newest first.
+     */
+    public List<AdjustmentJobResponseDto> getAllProgress() {
+        Map<UUID, AdjustmentJob> jobs = new LinkedHashMap<>();
+        jobRepository.findByStatus(AdjustmentJob.Status.RUNNING).forEach(job -> jobs.put(job.getId(), job));
+        jobRepository.findTop20ByOrderByCreatedAtDesc().forEach(job -> jobs.putIfAbsent(job.getId(), job));
+        return toResponses(jobs.values().stream()
+                .sorted(Comparator.comparing(AdjustmentJob::getCreatedAt).reversed())
+                .toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        jobRepository.findByStatus(AdjustmentJob.Status.RUNNING).forEach(job -> {
+            log.info("Resuming adjustment job {} from checkpoint", job.getId());
+            start(job);
+        });
+    }
+
+    private void start(AdjustmentJob job) {
+        UUID jobId = job.getId();
+        if (!runningJobs.add(jobId)) {
+            log.debug("Adjustment job {} is already running", jobId);
+            return;
+        }
+
+        if (job.getStatus() != AdjustmentJob.Status.RUNNING) {
+            updateStatus(jobId, AdjustmentJob.Status.RUNNING);
+        }
+
+        AdjustmentRule rule = AdjustmentRule.of(job);
+        CompletableFuture<?>[] partitions = partitionRepository.findByJobIdAndDoneFalse(jobId).stream()
+                .map(partition -> CompletableFuture.runAsync(() -> runPartition(partition.getId(), rule), workers))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(partitions).whenComplete((ignored, error) -> {
+            runningJobs.remove(jobId);
+            finish(jobId, error);
+        });
+    }
+
+    private void runPartition(UUID partitionId, AdjustmentRule rule) {
+        try {
+            while (processChunk(partitionId, rule)) {
+                Thread.sleep(throttleMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Adjustment partition {} interrupted, will resume from checkpoint", partitionId);
+        }
+    }
+
+    /**
+     * Applies the next chunk of a partition and advances its checkpoint in the same transaction.
+     * The partition row is locked first, so two workers can never apply the same chunk.
+     *
+     * @return whether the partition has more wallets to process
+     */
+    private boolean processChunk(UUID partitionId, AdjustmentRule rule) {
+        Boolean hasMore = transactionTemplate.execute(status -> {
+            AdjustmentPartition partition = partitionRepository.findByIdForUpdate(partitionId)
+                    .orElseThrow();
+            if (partition.isDone()) {
+                return false;
+            }
+
+            WalletRepository.AdjustmentChunk chunk = walletRepository.adjustChunk(
+                    partition.getNextWalletId(), partition.getUpperBound(), chunkSize,
+                    rule.rate(), rule.floor(), rule.cap(), rule.sign(),
+                    rule.minBalance(), rule.maxBalance());
+
+            boolean reachedUpperBound = false;
+            if (chunk.getLastId() != null) {
+                reachedUpperBound = chunk.getLastId().equals(partition.getUpperBound());
+                if (!reachedUpperBound) {
+                    partition.setNextWalletId(successor(chunk.getLastId()));
+                }
+                partition.setAdjustedCount(partition.getAdjustedCount() + chunk.getAdjusted());
+                partition.setSkippedCount(partition.getSkippedCount() + chunk.getSkipped());
+            }
+            partition.setDone(reachedUpperBound || chunk.getScanned() < chunkSize);
+            partitionRepository.save(partition);
+            return !partition.isDone();
+        });
+        return Boolean.TRUE.equals(hasMore);
+    }
+
+    private void finish(UUID jobId, Throwable error) {
+        try {
+            if (!partitionRepository.existsByJobIdAndDoneFalse(jobId)) {
+                transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+                    job.setStatus(AdjustmentJob.Status.COMPLETED);
+                    job.setCompletedAt(Instant.now());
+                    jobRepository.save(job);
+                }));
+                log.info("Adjustment job {} completed", jobId);
+            } else if (error != null) {
+                updateStatus(jobId, AdjustmentJob.Status.FAILED);
+                log.error("Adjustment job {} failed, resume to continue from checkpoint", jobId, error);
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not record outcome of adjustment job {}", jobId, e);
+        }
+    }
+
+    private void updateStatus(UUID jobId, AdjustmentJob.Status status) {
+        transactionTemplate.executeWithoutResult(tx -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            jobRepository.save(job);
+        }));
+    }
+
+    private AdjustmentJob findJob(UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new AdjustmentJobNotFoundException("Adjustment job not found: " + jobId));
+    }
+
+    private List<AdjustmentJobResponseDto> toResponses(List<AdjustmentJob> jobs) {
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, AdjustmentPartitionRepository.JobTotals> totals = partitionRepository
+                .sumByJobIds(jobs.stream().map(AdjustmentJob::getId).toList()).stream()
+                .collect(Collectors.toMap(AdjustmentPartitionRepository.JobTotals::getJobId, Function.identity()));
+        return jobs.stream()
+                .map(job -> toResponse(job, totals.get(job.getId())))
+                .toList();
+    }
+
+    private AdjustmentJobResponseDto toResponse(AdjustmentJob job, AdjustmentPartitionRepository.JobTotals totals) {
+        AdjustmentJobResponseDto.AdjustmentJobResponseDtoBuilder response = AdjustmentJobResponseDto.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt());
+        if (totals != null) {
+            response.partitions(totals.getPartitions().intValue())
+                    .partitionsDone(totals.getPartitionsDone().intValue())
+                    .walletsAdjusted(totals.getWalletsAdjusted())
+                    .walletsSkipped(totals.getWalletsSkipped());
+        }
+        return response.build();
+    }
+
+    static List<AdjustmentPartition> createPartitions(UUID jobId) {
+        List<AdjustmentPartition> partitions = new ArrayList<>(PARTITIONS);
+        for (int partitionNo = 0; partitionNo < PARTITIONS; partitionNo++) {
+            // Postgres orders uuids bytewise, so each partition covers one leading hex digit.
+            UUID lowerBound = new UUID((long) partitionNo << (Long.SIZE - PARTITION_BITS), 0L);
+            UUID upperBound = new UUID(((long) (partitionNo + 1) << (Long.SIZE - PARTITION_BITS)) - 1, -1L);
+            partitions.add(AdjustmentPartition.builder()
+                    .id(UUID.randomUUID())
+                    .jobId(jobId)
+                    .partitionNo(partitionNo)
+                    .nextWalletId(lowerBound)
+                    .upperBound(upperBound)
+                    .build());
+        }
+        return partitions;
+    }
+
+    /**
+     * Returns the id that follows {@code id} in Postgres uuid order, which compares the
+     * 128 bits as one unsigned number. Callers must not pass the all-ones uuid.
+     */
+    static UUID successor(UUID id) {
+        long leastSigBits = id.getLeastSignificantBits() + 1;
+        long mostSigBits = id.getMostSignificantBits() + (leastSigBits == 0 ? 1 : 0);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
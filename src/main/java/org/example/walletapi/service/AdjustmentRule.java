@@ -0,0 +1,30 @@
+package org.example.walletapi.service;
+
+import org.example.walletapi.entity.AdjustmentJob;
+
+import java.math.BigDecimal;
+
+/**
+ * An adjustment job reduced to the parameters of the chunk statement.
+ * A fixed amount is a rate of zero with floor and cap both set to the amount.
+ */
+record AdjustmentRule(BigDecimal rate, BigDecimal floor, BigDecimal cap, int sign,
+                      BigDecimal minBalance, BigDecimal maxBalance) {
+
+    static final BigDecimal MAX_AMOUNT = new BigDecimal("9999999999999999999");
+
+    static AdjustmentRule of(AdjustmentJob job) {
+        int sign = job.getDirection() == AdjustmentJob.Direction.CREDIT ? 1 : -1;
+        BigDecimal minBalance = job.getMinBalance() != null ? job.getMinBalance() : MAX_AMOUNT.negate();
+        BigDecimal maxBalance = job.getMaxBalance() != null ? job.getMaxBalance() : MAX_AMOUNT;
+
+        if (job.getRuleType() == AdjustmentJob.RuleType.FIXED) {
+            return new AdjustmentRule(BigDecimal.ZERO, job.getAmount(), job.getAmount(), sign, minBalance, maxBalance);
+        }
+        return new AdjustmentRule(
+                job.getPercent().movePointLeft(2),
+                job.getFloorAmount() != null ? job.getFloorAmount() : BigDecimal.ZERO,
+                job.getCapAmount() != null ? job.getCapAmount() : MAX_AMOUNT,
+                sign, minBalance, maxBalance);
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.walletapi.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PessimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.UUID;
+
+/**
+ * Wallet lock backed by transaction-scoped Postgres advisory locks.
+ * The lock is released by the database on commit or rollback, so {@link #unlock} does nothing
+ * and no Redis round trip is needed. Must be called inside the operation's transaction.
+ * The timeout stays set for the rest of the transaction, so the wallet row lookup that follows
+ * is bounded by it as well.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "wallet.lock.provider", havingValue = "postgres")
+public class AdvisoryLockService implements WalletLockService {
+
+    // "walletLK" in ASCII.
+    private static final long LOCK_KEY_SEED = 0x77616c6c65744c4bL;
+    private static final long MURMUR_C1 = 0x87c37b91114253d5L;
+    private static final long MURMUR_C2 = 0x4cf5ad432745937fL;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${wallet.lock.waitTime:3000}")
+    private long waitTime;
+
+    @Override
+    public boolean tryLock(UUID walletId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Advisory lock requires an active transaction");
+        }
+
+        try {
+            // One round trip: the FROM subquery sets the timeout before the target list takes the lock.
+            entityManager.createNativeQuery("SELECT CAST(pg_advisory_xact_lock(:key) AS text) "
+                            + "FROM (SELECT set_config('lock_timeout', :timeout, true)) t")
+                    .setParameter("timeout", waitTime + "ms")
+                    .setParameter("key", lockKey(walletId))
+                    .getSingleResult();
+            log.debug("Advisory lock acquired for wallet: {}", walletId);
+            return true;
+        } catch (LockTimeoutException | PessimisticLockException e) {
+            // The failed statement aborts the Postgres transaction, so it can only be rolled back.
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.warn("Failed to acquire advisory lock for wallet: {}", walletId);
+            return false;
+        }
+    }
+
+    @Override
+    public void unlock(UUID walletId) {
+        // Released by Postgres when the transaction ends.
+    }
+
+    /**
+     * Advisory lock key for a wallet. Postgres has a single {@code bigint} advisory lock namespace
+     * shared by everything on the database, so the key is MurmurHash3 (x64, 128-bit, first half)
+     * of the 16 id bytes with a seed specific to this application. Client-chosen ids therefore
+     * cannot be arranged to collide with each other or with other users of the namespace.
+     */
+    public static long lockKey(UUID walletId) {
+        long h1 = LOCK_KEY_SEED;
+        long h2 = LOCK_KEY_SEED;
+
+        long k1 = walletId.getMostSignificantBits() * MURMUR_C1;
+        k1 = Long.rotateLeft(k1, 31) * MURMUR_C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27) + h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        long k2 = walletId.getLeastSignificantBits() * MURMUR_C2;
+        k2 = Long.rotateLeft(k2, 33) * MURMUR_C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31) + h1;
+        h2 = h2 * 5 + 0x38495ab5;
+
+        h1 ^= 16;
+        h2 ^= 16;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        return h1 + h2;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -12,7 +13,8 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class DistributedLockService {
+@ConditionalOnProperty(name = "wallet.lock.provider", havingValue = "redis", matchIfMissing = true)
+public class DistributedLockService implements WalletLockService {
     private final RedissonClient redissonClient;
 
     @Value("${wallet.lock.timeout:5000}")
@@ -21,6 +23,7 @@ public class DistributedLockService {
     @Value("${wallet.lock.waitTime:3000}")
     private long waitTime;
 
+    @Override
     public boolean tryLock(UUID walletId) {
         RLock lock = redissonClient.getLock("wallet:" + walletId.toString());
         try {
@@ -38,6 +41,7 @@ public class DistributedLockService {
         }
     }
 
+    @Override
     public void unlock(UUID walletId) {
         RLock lock = redissonClient.getLock("wallet:" + walletId.toString());
         if (lock.isHeldByCurrentThread()) {
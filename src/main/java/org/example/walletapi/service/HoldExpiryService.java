@@ -0,0 +1,89 @@
+package org.example.walletapi.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.walletapi.repository.WalletHoldRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Tracks hold deadlines in memory and releases expired holds in batches.
+ * The database is only scanned once, on startup, to rebuild the wheel.
+ */
+@Slf4j
+@Service
+public class HoldExpiryService {
+    private static final int SLOT_BITS = 6;
+    private static final int LEVELS = 4;
+
+    private final WalletHoldRepository holdRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TimingWheel<UUID> wheel;
+    private final long tickMillis;
+    private final int batchSize;
+
+    public HoldExpiryService(WalletHoldRepository holdRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${wallet.hold.tick:1000}") long tickMillis,
+                             @Value("${wallet.hold.expiryBatchSize:500}") int batchSize) {
+        this.holdRepository = holdRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.tickMillis = tickMillis;
+        this.batchSize = batchSize;
+        this.wheel = new TimingWheel<>(tickMillis, SLOT_BITS, LEVELS, System.currentTimeMillis());
+    }
+
+    public void schedule(UUID holdId, Instant expiresAt) {
+        wheel.add(holdId, expiresAt.toEpochMilli());
+    }
+
+    public void cancel(UUID holdId) {
+        wheel.remove(holdId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void recoverHolds() {
+        AtomicLong recovered = new AtomicLong();
+        try (Stream<WalletHoldRepository.HoldExpiry> holds = holdRepository.streamAllExpiries()) {
+            holds.forEach(hold -> {
+                schedule(hold.getId(), hold.getExpiresAt());
+                recovered.incrementAndGet();
+            });
+        }
+        log.info("Recovered {} active holds", recovered.get());
+    }
+
+    @Scheduled(fixedDelayString = "${wallet.hold.tick:1000}")
+    public void releaseExpiredHolds() {
+        List<UUID> expired = wheel.advance(System.currentTimeMillis());
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            releaseBatch(expired.subList(from, Math.min(from + batchSize, expired.size())));
+        }
+    }
+
+    private void releaseBatch(List<UUID> holdIds) {
+        Instant now = Instant.now();
+        try {
+            Integer wallets = transactionTemplate.execute(status -> {
+                holdRepository.lockWalletsOfHolds(holdIds);
+                return holdRepository.releaseExpired(holdIds, now);
+            });
+            log.debug("Released {} expired holds across {} wallets", holdIds.size(), wallets);
+        } catch (RuntimeException e) {
+            // The wheel has already dropped these ids, so any failure must put them back.
+            log.error("Failed to release {} expired holds, retrying on next tick", holdIds.size(), e);
+            long retryAt = System.currentTimeMillis() + tickMillis;
+            holdIds.forEach(holdId -> wheel.add(holdId, retryAt));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.walletapi.service;
+
+import java.math.BigDecimal;
+
+public sealed interface OperationResult permits OperationResult.Success, OperationResult.Rejected {
+
+    record Success(BigDecimal balance) implements OperationResult {
+    }
+
+    /**
+     * Expected business failures. Constants are shared, so a rejected operation
+     * allocates nothing and leaves the transaction to commit without changes.
+     */
+    enum Rejected implements OperationResult {
+        WALLET_NOT_FOUND,
+        INSUFFICIENT_FUNDS,
+        WALLET_BUSY,
+        HOLD_NOT_FOUND,
+        HOLD_ALREADY_EXISTS,
+        CAPTURE_EXCEEDS_HOLD
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.walletapi.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel. Each level has {@code 2^slotBits} slots, and every level
+ * spans {@code 2^slotBits} times the range of the one below it. Adding and cancelling a key
+ * are O(1). When a higher-level slot comes due, its entries move down a level, so an entry is
+ * touched at most once per level before it expires.
+ */
+final class TimingWheel<K> {
+    private final long tickMillis;
+    private final int slotBits;
+    private final int slotMask;
+    private final ArrayDeque<Entry<K>>[][] levels;
+    private final ArrayDeque<Entry<K>> due = new ArrayDeque<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, int slotBits, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.slotBits = slotBits;
+        this.slotMask = (1 << slotBits) - 1;
+        this.levels = new ArrayDeque[levelCount][1 << slotBits];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules {@code key} to expire at {@code deadlineMillis}, replacing any earlier deadline.
+     * A deadline in the past is returned by the next {@link #advance}.
+     */
+    synchronized void add(K key, long deadlineMillis) {
+        Entry<K> entry = new Entry<>(key, (deadlineMillis + tickMillis - 1) / tickMillis);
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    synchronized boolean remove(K key) {
+        return entries.remove(key) != null;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis} and returns every key whose deadline has passed.
+     */
+    synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.length - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (slotBits * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            collect(slot(0, currentTick), expired);
+        }
+        collect(due, expired);
+        return expired;
+    }
+
+    private void place(Entry<K> entry) {
+        long delta = entry.tick - currentTick;
+        if (delta <= 0) {
+            due.add(entry);
+            return;
+        }
+        for (int level = 0; level < levels.length; level++) {
+            if (delta < 1L << (slotBits * (level + 1))) {
+                slot(level, entry.tick).add(entry);
+                return;
+            }
+        }
+        // Beyond the top level's range: park in its farthest slot and re-place when that slot comes due.
+        int top = levels.length - 1;
+        slot(top, currentTick + ((long) slotMask << (slotBits * top))).add(entry);
+    }
+
+    private void cascade(int level) {
+        ArrayDeque<Entry<K>> slot = slot(level, currentTick);
+        Entry<K> entry;
+        List<Entry<K>> live = new ArrayList<>(slot.size());
+        while ((entry = slot.poll()) != null) {
+            if (entries.get(entry.key) == entry) {
+                live.add(entry);
+            }
+        }
+        live.forEach(this::place);
+    }
+
+    private void collect(ArrayDeque<Entry<K>> slot, List<K> expired) {
+        Entry<K> entry;
+        while ((entry = slot.poll()) != null) {
+            if (entries.get(entry.key) == entry) {
+                entries.remove(entry.key);
+                expired.add(entry.key);
+            }
+        }
+    }
+
+    private ArrayDeque<Entry<K>> slot(int level, long tick) {
+        int index = (int) ((tick >>> (slotBits * level)) & slotMask);
+        ArrayDeque<Entry<K>> slot = levels[level][index];
+        if (slot == null) {
+            slot = new ArrayDeque<>();
+            levels[level][index] = slot;
+        }
+        return slot;
+    }
+
+    private record Entry<K>(K key, long tick) {
+    }
+}
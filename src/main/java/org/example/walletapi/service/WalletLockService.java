@@ -0,0 +1,12 @@
+package org.example.walletapi.service;
+
+import java.util.UUID;
+
+/**
+ * Serialises concurrent operations on the same wallet.
+ * The implementation is selected with {@code wallet.lock.provider}.
+ */
+public interface WalletLockService {
+    boolean tryLock(UUID walletId);
+    void unlock(UUID walletId);
+}
@@ -1,11 +1,11 @@
 package org.example.walletapi.service;
 
 import org.example.walletapi.dto.WalletOperationRequestDto;
+import org.example.walletapi.entity.Wallet;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 public interface WalletService {
-    void processOperation(WalletOperationRequestDto request);
-    BigDecimal getBalance(UUID walletId);
+    OperationResult processOperation(WalletOperationRequestDto request);
+    Wallet getWallet(UUID walletId);
 }
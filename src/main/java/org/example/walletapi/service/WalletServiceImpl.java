@@ -4,12 +4,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.walletapi.dto.WalletOperationRequestDto;
 import org.example.walletapi.entity.Wallet;
-import org.example.walletapi.exception.InsufficientFundsException;
+import org.example.walletapi.entity.WalletHold;
 import org.example.walletapi.exception.WalletNotFoundException;
+import org.example.walletapi.repository.WalletHoldRepository;
 import org.example.walletapi.repository.WalletRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,47 +27,144 @@ import java.util.UUID;
 public class WalletServiceImpl implements WalletService {
 
     private final WalletRepository walletRepository;
-    private final DistributedLockService lockService;
+    private final WalletHoldRepository holdRepository;
+    private final WalletLockService lockService;
+    private final HoldExpiryService holdExpiryService;
+
+    @Value("${wallet.hold.ttl:15m}")
+    private Duration holdTtl;
 
     @Override
     @Transactional
-    public void processOperation(WalletOperationRequestDto request) {
+    public OperationResult processOperation(WalletOperationRequestDto request) {
         UUID walletId = request.getWalletId();
 
         if (!lockService.tryLock(walletId)) {
-            throw new RuntimeException("Could not acquire lock for wallet: " + walletId);
+            return OperationResult.Rejected.WALLET_BUSY;
         }
 
         try {
-            Optional<Wallet> walletOpt = walletRepository.findByIdForUpdate(walletId);
-
-            switch (request.getOperationType()) {
-                case DEPOSIT:
-                    handleDeposit(walletOpt, walletId, request.getAmount());
-                    break;
-                case WITHDRAW:
-                    handleWithdraw(walletOpt, walletId, request.getAmount());
-                    break;
+            Optional<Wallet> walletOpt;
+            try {
+                walletOpt = walletRepository.findByIdForUpdate(walletId);
+            } catch (PessimisticLockingFailureException e) {
+                // Hold expiry and bulk adjustments lock wallet rows without the lock service.
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                log.warn("Timed out waiting for row lock on wallet: {}", walletId);
+                return OperationResult.Rejected.WALLET_BUSY;
             }
+
+            return switch (request.getOperationType()) {
+                case DEPOSIT -> handleDeposit(walletOpt, walletId, request.getAmount());
+                case WITHDRAW -> handleWithdraw(walletOpt, walletId, request.getAmount());
+                case HOLD -> handleHold(walletOpt, walletId, request.getHoldId(), request.getAmount());
+                case CAPTURE -> handleCapture(walletOpt, walletId, request.getHoldId(), request.getAmount());
+                case RELEASE -> handleRelease(walletOpt, walletId, request.getHoldId());
+            };
         } finally {
             lockService.unlock(walletId);
         }
     }
 
-    private void handleDeposit(Optional<Wallet> walletOpt, UUID walletId, BigDecimal amount) {
+    private OperationResult handleDeposit(Optional<Wallet> walletOpt, UUID walletId, BigDecimal amount) {
         Wallet wallet = walletOpt.orElseGet(() -> createWallet(walletId));
         BigDecimal newBalance = wallet.getBalance().add(amount);
         updateWalletBalance(wallet, newBalance);
         logDeposit(walletId, amount, newBalance);
+        return new OperationResult.Success(newBalance);
     }
 
-    private void handleWithdraw(Optional<Wallet> walletOpt, UUID walletId, BigDecimal amount) {
-        Wallet wallet = walletOpt.orElseThrow(() ->
-                new WalletNotFoundException("Wallet not found: " + walletId));
-        validateBalance(wallet, amount);
+    private OperationResult handleWithdraw(Optional<Wallet> walletOpt, UUID walletId, BigDecimal amount) {
+        if (walletOpt.isEmpty()) {
+            return OperationResult.Rejected.WALLET_NOT_FOUND;
+        }
+        Wallet wallet = walletOpt.get();
+        if (!hasSufficientBalance(wallet, amount)) {
+            return OperationResult.Rejected.INSUFFICIENT_FUNDS;
+        }
         BigDecimal newBalance = wallet.getBalance().subtract(amount);
         updateWalletBalance(wallet, newBalance);
         logWithdrawal(walletId, amount, newBalance);
+        return new OperationResult.Success(newBalance);
+    }
+
+    private OperationResult handleHold(Optional<Wallet> walletOpt, UUID walletId, UUID holdId, BigDecimal amount) {
+        if (walletOpt.isEmpty()) {
+            return OperationResult.Rejected.WALLET_NOT_FOUND;
+        }
+        Wallet wallet = walletOpt.get();
+        if (!hasSufficientBalance(wallet, amount)) {
+            return OperationResult.Rejected.INSUFFICIENT_FUNDS;
+        }
+
+        // The wallet lock does not cover the same holdId on another wallet, so let the primary key decide.
+        Instant expiresAt = Instant.now().plus(holdTtl);
+        if (holdRepository.insertIfAbsent(holdId, walletId, amount, expiresAt) == 0) {
+            return OperationResult.Rejected.HOLD_ALREADY_EXISTS;
+        }
+        wallet.setHeldBalance(wallet.getHeldBalance().add(amount));
+        walletRepository.save(wallet);
+        afterCommit(() -> holdExpiryService.schedule(holdId, expiresAt));
+        log.info("Held {} on wallet {} until {}. Held balance: {}", amount, walletId, expiresAt, wallet.getHeldBalance());
+        return new OperationResult.Success(wallet.getBalance());
+    }
+
+    private OperationResult handleCapture(Optional<Wallet> walletOpt, UUID walletId, UUID holdId, BigDecimal amount) {
+        if (walletOpt.isEmpty()) {
+            return OperationResult.Rejected.WALLET_NOT_FOUND;
+        }
+        Wallet wallet = walletOpt.get();
+        Optional<WalletHold> holdOpt = findHoldForUpdate(walletId, holdId);
+        if (holdOpt.isEmpty() || holdOpt.get().getExpiresAt().isBefore(Instant.now())) {
+            return OperationResult.Rejected.HOLD_NOT_FOUND;
+        }
+        WalletHold hold = holdOpt.get();
+        BigDecimal captured = amount != null ? amount : hold.getAmount();
+        if (captured.compareTo(hold.getAmount()) > 0) {
+            return OperationResult.Rejected.CAPTURE_EXCEEDS_HOLD;
+        }
+
+        // A partial capture releases the remainder of the hold.
+        wallet.setBalance(wallet.getBalance().subtract(captured));
+        wallet.setHeldBalance(wallet.getHeldBalance().subtract(hold.getAmount()));
+        holdRepository.delete(hold);
+        walletRepository.save(wallet);
+        afterCommit(() -> holdExpiryService.cancel(holdId));
+        log.info("Captured {} of hold {} on wallet {}. New balance: {}", captured, holdId, walletId, wallet.getBalance());
+        return new OperationResult.Success(wallet.getBalance());
+    }
+
+    private OperationResult handleRelease(Optional<Wallet> walletOpt, UUID walletId, UUID holdId) {
+        if (walletOpt.isEmpty()) {
+            return OperationResult.Rejected.WALLET_NOT_FOUND;
+        }
+        Wallet wallet = walletOpt.get();
+        Optional<WalletHold> holdOpt = findHoldForUpdate(walletId, holdId);
+        if (holdOpt.isEmpty()) {
+            return OperationResult.Rejected.HOLD_NOT_FOUND;
+        }
+        WalletHold hold = holdOpt.get();
+
+        wallet.setHeldBalance(wallet.getHeldBalance().subtract(hold.getAmount()));
+        holdRepository.delete(hold);
+        walletRepository.save(wallet);
+        afterCommit(() -> holdExpiryService.cancel(holdId));
+        log.info("Released hold {} of {} on wallet {}. Held balance: {}", holdId, hold.getAmount(), walletId, wallet.getHeldBalance());
+        return new OperationResult.Success(wallet.getBalance());
+    }
+
+    private Optional<WalletHold> findHoldForUpdate(UUID walletId, UUID holdId) {
+        return holdRepository.findByIdForUpdate(holdId)
+                .filter(hold -> hold.getWalletId().equals(walletId));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     private Wallet createWallet(UUID walletId) {
@@ -70,13 +175,8 @@ public class WalletServiceImpl implements WalletService {
         return walletRepository.save(wallet);
     }
 
-    private void validateBalance(Wallet wallet, BigDecimal amount) {
-        if (wallet.getBalance().compareTo(amount) < 0) {
-            throw new InsufficientFundsException(
-                    String.format("Insufficient funds. Current balance: %s, requested: %s",
-                            wallet.getBalance(), amount)
-            );
-        }
+    private boolean hasSufficientBalance(Wallet wallet, BigDecimal amount) {
+        return wallet.getAvailableBalance().compareTo(amount) >= 0;
     }
 
     private void updateWalletBalance(Wallet wallet, BigDecimal newBalance) {
@@ -92,10 +192,10 @@ public class WalletServiceImpl implements WalletService {
         log.info("Withdrawn {} from wallet {}. New balance: {}", amount, walletId, newBalance);
     }
 
+    @Override
     @Transactional(readOnly = true)
-    public BigDecimal getBalance(UUID walletId) {
+    public Wallet getWallet(UUID walletId) {
         return walletRepository.findById(walletId)
-                .map(Wallet::getBalance)
                 .orElseThrow(() -> new WalletNotFoundException("Wallet not found: " + walletId));
     }
 }
@@ -0,0 +1,232 @@
+package org.example.walletapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.walletapi.dto.AdjustmentJobResponseDto;
+import org.example.walletapi.dto.AdjustmentRequestDto;
+import org.example.walletapi.entity.AdjustmentJob;
+import org.example.walletapi.entity.AdjustmentPartition;
+import org.example.walletapi.entity.Wallet;
+import org.example.walletapi.repository.AdjustmentJobRepository;
+import org.example.walletapi.repository.AdjustmentPartitionRepository;
+import org.example.walletapi.repository.WalletRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.math.BigDecimal;
+import java.util.UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("postgres-lock")
+class AdjustmentControllerTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("wallet.adjustment.chunkSize", () -> 2);
+        registry.add("wallet.adjustment.throttle", () -> 0);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private AdjustmentJobRepository jobRepository;
+
+    @Autowired
+    private AdjustmentPartitionRepository partitionRepository;
+
+    @Test
+    void testFixedDebitThenPercentageCredit() throws Exception {
+        // Wallets spread over partitions 0, 7, c and f, including both ends of the id space;
+        // selected by maxBalance 5000.
+        UUID empty = seedWallet("00000000-0000-0000-0000-000000000000", "0", "0");
+        UUID rich1 = seedWallet("0a000000-0000-4000-8000-000000000001", "1000", "0");
+        UUID rich2 = seedWallet("0a000000-0000-4000-8000-000000000002", "1000", "0");
+        UUID rich3 = seedWallet("0a000000-0000-4000-8000-000000000003", "1000", "0");
+        UUID poor = seedWallet("7b000000-0000-4000-8000-000000000001", "50", "0");
+        UUID held = seedWallet("c3000000-0000-4000-8000-000000000001", "1000", "980");
+        UUID last = seedWallet("ffffffff-ffff-ffff-ffff-ffffffffffff", "200", "0");
+
+        AdjustmentJobResponseDto fee = awaitCompleted(createJob(AdjustmentRequestDto.builder()
+                .ruleType(AdjustmentJob.RuleType.FIXED)
+                .direction(AdjustmentJob.Direction.DEBIT)
+                .amount(new BigDecimal("100"))
+                .maxBalance(new BigDecimal("5000"))
+                .build()));
+
+        assertThat(fee.getPartitionsDone()).isEqualTo(16);
+        assertThat(fee.getWalletsAdjusted()).isEqualTo(4);
+        assertThat(fee.getWalletsSkipped()).isEqualTo(3);
+        assertBalance(rich1, "900");
+        assertBalance(rich2, "900");
+        assertBalance(rich3, "900");
+        assertBalance(last, "100");
+        assertBalance(empty, "0");
+        assertBalance(poor, "50");
+        assertBalance(held, "1000");
+
+        AdjustmentJobResponseDto interest = awaitCompleted(createJob(AdjustmentRequestDto.builder()
+                .ruleType(AdjustmentJob.RuleType.PERCENTAGE)
+                .direction(AdjustmentJob.Direction.CREDIT)
+                .percent(new BigDecimal("10"))
+                .floor(new BigDecimal("5"))
+                .cap(new BigDecimal("50"))
+                .maxBalance(new BigDecimal("5000"))
+                .build()));
+
+        assertThat(interest.getWalletsAdjusted()).isEqualTo(7);
+        assertThat(interest.getWalletsSkipped()).isZero();
+        assertBalance(rich1, "950");
+        assertBalance(rich3, "950");
+        assertBalance(poor, "55");
+        assertBalance(held, "1050");
+        assertBalance(last, "110");
+        assertBalance(empty, "5");
+        assertThat(walletRepository.findById(held).orElseThrow().getHeldBalance()).isEqualByComparingTo("980");
+    }
+
+    @Test
+    void testResumeContinuesFromCheckpoint() throws Exception {
+        // Selected by balance 7000..7999, so the other test's jobs never touch these wallets.
+        UUID first = seedWallet("01000000-0000-4000-8000-000000000001", "7000", "0");
+        UUID second = seedWallet("01000000-0000-4000-8000-000000000002", "7000", "0");
+        UUID third = seedWallet("01000000-0000-4000-8000-000000000003", "7000", "0");
+        UUID other = seedWallet("a1000000-0000-4000-8000-000000000001", "7000", "0");
+
+        AdjustmentJobResponseDto credit = awaitCompleted(createJob(AdjustmentRequestDto.builder()
+                .ruleType(AdjustmentJob.RuleType.FIXED)
+                .direction(AdjustmentJob.Direction.CREDIT)
+                .amount(new BigDecimal("10"))
+                .minBalance(new BigDecimal("7000"))
+                .maxBalance(new BigDecimal("7999"))
+                .build()));
+        assertThat(credit.getWalletsAdjusted()).isEqualTo(4);
+
+        // Rewind partition 0 to the second wallet, as if the job had crashed after the first.
+        AdjustmentPartition partition = partitionRepository.findByJobId(credit.getJobId()).stream()
+                .filter(p -> p.getPartitionNo() == 0)
+                .findFirst()
+                .orElseThrow();
+        partition.setNextWalletId(second);
+        partition.setAdjustedCount(1);
+        partition.setDone(false);
+        partitionRepository.save(partition);
+        AdjustmentJob job = jobRepository.findById(credit.getJobId()).orElseThrow();
+        job.setStatus(AdjustmentJob.Status.FAILED);
+        jobRepository.save(job);
+
+        mockMvc.perform(post("/api/v1/adjustments/{jobId}/resume", credit.getJobId()))
+                .andExpect(status().isAccepted());
+        AdjustmentJobResponseDto resumed = awaitCompleted(credit.getJobId());
+
+        assertThat(resumed.getWalletsAdjusted()).isEqualTo(4);
+        assertBalance(first, "7010");
+        assertBalance(second, "7020");
+        assertBalance(third, "7020");
+        assertBalance(other, "7010");
+    }
+
+    @Test
+    void testInvalidSelectionRejected() throws Exception {
+        AdjustmentRequestDto request = AdjustmentRequestDto.builder()
+                .ruleType(AdjustmentJob.RuleType.FIXED)
+                .direction(AdjustmentJob.Direction.CREDIT)
+                .amount(new BigDecimal("10"))
+                .percent(new BigDecimal("5"))
+                .minBalance(new BigDecimal("500"))
+                .maxBalance(new BigDecimal("100"))
+                .build();
+
+        mockMvc.perform(post("/api/v1/adjustments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors[*].field").value(containsInAnyOrder("percent", "minBalance")));
+    }
+
+    @Test
+    void testPercentBeyondStoredScaleRejected() throws Exception {
+        AdjustmentRequestDto request = AdjustmentRequestDto.builder()
+                .ruleType(AdjustmentJob.RuleType.PERCENTAGE)
+                .direction(AdjustmentJob.Direction.CREDIT)
+                .percent(new BigDecimal("1.23456"))
+                .cap(new BigDecimal("10.5"))
+                .build();
+
+        mockMvc.perform(post("/api/v1/adjustments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors[*].field").value(containsInAnyOrder("percent", "cap")));
+    }
+
+    private UUID seedWallet(String id, String balance, String heldBalance) {
+        return walletRepository.save(Wallet.builder()
+                .id(UUID.fromString(id))
+                .balance(new BigDecimal(balance))
+                .heldBalance(new BigDecimal(heldBalance))
+                .build()).getId();
+    }
+
+    private UUID createJob(AdjustmentRequestDto request) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/adjustments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(body, AdjustmentJobResponseDto.class).getJobId();
+    }
+
+    private AdjustmentJobResponseDto awaitCompleted(UUID jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            String body = mockMvc.perform(get("/api/v1/adjustments/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            AdjustmentJobResponseDto progress = objectMapper.readValue(body, AdjustmentJobResponseDto.class);
+            if (progress.getStatus() == AdjustmentJob.Status.COMPLETED) {
+                return progress;
+            }
+            assertThat(progress.getStatus()).isNotEqualTo(AdjustmentJob.Status.FAILED);
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private void assertBalance(UUID walletId, String expected) {
+        assertThat(walletRepository.findById(walletId).orElseThrow().getBalance()).isEqualByComparingTo(expected);
+    }
+}
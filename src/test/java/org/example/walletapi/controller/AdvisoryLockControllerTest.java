@@ -0,0 +1,137 @@
+package org.example.walletapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.walletapi.dto.WalletOperationRequestDto;
+import org.example.walletapi.service.AdvisoryLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("postgres-lock")
+class AdvisoryLockControllerTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("wallet.lock.waitTime", () -> 500);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private UUID testWalletId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testWalletId = UUID.randomUUID();
+        perform(WalletOperationRequestDto.OperationType.DEPOSIT, "1000");
+    }
+
+    @Test
+    void testConcurrentOperationsOnOneWallet() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                var type = i % 2 == 0
+                        ? WalletOperationRequestDto.OperationType.DEPOSIT
+                        : WalletOperationRequestDto.OperationType.WITHDRAW;
+                results.add(executor.submit(() -> perform(type, "10")));
+            }
+            for (Future<Integer> result : results) {
+                if (result.get() != 200) {
+                    throw new AssertionError("Operation failed with status " + result.get());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", testWalletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(1000));
+    }
+
+    @Test
+    void testHeldAdvisoryLockReturnsWalletBusy() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_xact_lock(?)")) {
+                statement.setLong(1, AdvisoryLockService.lockKey(testWalletId));
+                statement.execute();
+            }
+
+            WalletOperationRequestDto withdraw = WalletOperationRequestDto.builder()
+                    .walletId(testWalletId)
+                    .operationType(WalletOperationRequestDto.OperationType.WITHDRAW)
+                    .amount(new BigDecimal("100"))
+                    .build();
+
+            mockMvc.perform(post("/api/v1/wallet")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(withdraw)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.error").value("Wallet busy"));
+
+            connection.rollback();
+        }
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", testWalletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(1000));
+    }
+
+    private int perform(WalletOperationRequestDto.OperationType type, String amount) throws Exception {
+        WalletOperationRequestDto request = WalletOperationRequestDto.builder()
+                .walletId(testWalletId)
+                .operationType(type)
+                .amount(new BigDecimal(amount))
+                .build();
+
+        return mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+}
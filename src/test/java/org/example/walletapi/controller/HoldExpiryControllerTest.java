@@ -0,0 +1,100 @@
+package org.example.walletapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.walletapi.dto.WalletOperationRequestDto;
+import org.example.walletapi.entity.Wallet;
+import org.example.walletapi.repository.WalletHoldRepository;
+import org.example.walletapi.repository.WalletRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.math.BigDecimal;
+import java.util.UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@ActiveProfiles("postgres-lock")
+class HoldExpiryControllerTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("wallet.hold.ttl", () -> "1s");
+        registry.add("wallet.hold.tick", () -> 100);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private WalletHoldRepository holdRepository;
+
+    @Test
+    void testExpiredHoldIsReleased() throws Exception {
+        UUID walletId = UUID.randomUUID();
+        UUID holdId = UUID.randomUUID();
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(WalletOperationRequestDto.builder()
+                                .walletId(walletId)
+                                .operationType(WalletOperationRequestDto.OperationType.DEPOSIT)
+                                .amount(new BigDecimal("1000"))
+                                .build())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/wallet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(WalletOperationRequestDto.builder()
+                                .walletId(walletId)
+                                .operationType(WalletOperationRequestDto.OperationType.HOLD)
+                                .amount(new BigDecimal("400"))
+                                .holdId(holdId)
+                                .build())))
+                .andExpect(status().isOk());
+
+        assertThat(holdRepository.existsById(holdId)).isTrue();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (holdRepository.existsById(holdId) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(holdRepository.existsById(holdId)).isFalse();
+        Wallet wallet = walletRepository.findById(walletId).orElseThrow();
+        assertThat(wallet.getHeldBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(wallet.getBalance()).isEqualByComparingTo("1000");
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", walletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.heldBalance").value(0))
+                .andExpect(jsonPath("$.availableBalance").value(1000));
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -39,7 +40,6 @@ class WalletControllerTest {
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.data.redis.host", () -> "localhost");
         registry.add("spring.data.redis.port", () -> 6379);
-        registry.add("spring.liquibase.enabled", () -> false);
     }
 
     @Autowired
@@ -140,6 +140,122 @@ class WalletControllerTest {
                         .content(objectMapper.writeValueAsString(withdraw)))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").value("Insufficient funds"));
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", testWalletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(100.00));
+    }
+
+    @Test
+    void testHoldAndPartialCapture() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.DEPOSIT, "1000", null)
+                .andExpect(status().isOk());
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.HOLD, "400", holdId)
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", testWalletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.heldBalance").value(400))
+                .andExpect(jsonPath("$.availableBalance").value(600));
+
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.CAPTURE, "300", holdId)
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", testWalletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(700))
+                .andExpect(jsonPath("$.heldBalance").value(0))
+                .andExpect(jsonPath("$.availableBalance").value(700));
+
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.CAPTURE, "300", holdId)
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Hold not found"));
+    }
+
+    @Test
+    void testReleaseRestoresAvailableBalance() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.DEPOSIT, "1000", null)
+                .andExpect(status().isOk());
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.HOLD, "400", holdId)
+                .andExpect(status().isOk());
+
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.RELEASE, null, holdId)
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", testWalletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(1000))
+                .andExpect(jsonPath("$.heldBalance").value(0))
+                .andExpect(jsonPath("$.availableBalance").value(1000));
+
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.RELEASE, null, holdId)
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Hold not found"));
+    }
+
+    @Test
+    void testHoldInsufficientAvailableBalance() throws Exception {
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.DEPOSIT, "1000", null)
+                .andExpect(status().isOk());
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.HOLD, "700", UUID.randomUUID())
+                .andExpect(status().isOk());
+
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.HOLD, "400", UUID.randomUUID())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Insufficient funds"));
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", testWalletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.heldBalance").value(700));
+    }
+
+    @Test
+    void testDuplicateHoldIdAcrossWallets() throws Exception {
+        UUID holdId = UUID.randomUUID();
+        UUID otherWalletId = UUID.randomUUID();
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.DEPOSIT, "1000", null)
+                .andExpect(status().isOk());
+        performOperation(otherWalletId, WalletOperationRequestDto.OperationType.DEPOSIT, "1000", null)
+                .andExpect(status().isOk());
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.HOLD, "100", holdId)
+                .andExpect(status().isOk());
+
+        performOperation(otherWalletId, WalletOperationRequestDto.OperationType.HOLD, "100", holdId)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Hold already exists"));
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", otherWalletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.heldBalance").value(0));
+    }
+
+    @Test
+    void testWithdrawBlockedByHeldFunds() throws Exception {
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.DEPOSIT, "1000", null)
+                .andExpect(status().isOk());
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.HOLD, "800", UUID.randomUUID())
+                .andExpect(status().isOk());
+
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.WITHDRAW, "300", null)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Insufficient funds"));
+
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.WITHDRAW, "200", null)
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/wallets/{walletId}", testWalletId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(800))
+                .andExpect(jsonPath("$.availableBalance").value(0));
+    }
+
+    @Test
+    void testMissingAmountReportedOnAmountField() throws Exception {
+        performOperation(testWalletId, WalletOperationRequestDto.OperationType.DEPOSIT, null, null)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors[0].field").value("amount"));
     }
 
     @Test
@@ -186,4 +302,18 @@ class WalletControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.balance").value(500.00));
     }
+
+    private ResultActions performOperation(UUID walletId, WalletOperationRequestDto.OperationType type,
+                                           String amount, UUID holdId) throws Exception {
+        WalletOperationRequestDto request = WalletOperationRequestDto.builder()
+                .walletId(walletId)
+                .operationType(type)
+                .amount(amount != null ? new BigDecimal(amount) : null)
+                .holdId(holdId)
+                .build();
+
+        return mockMvc.perform(post("/api/v1/wallet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
 }
@@ -0,0 +1,48 @@
+package org.example.walletapi.service;
+
+import org.example.walletapi.entity.AdjustmentPartition;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdjustmentJobServiceTest {
+
+    @Test
+    void testPartitionsCoverWholeIdSpaceContiguously() {
+        UUID jobId = UUID.randomUUID();
+        List<AdjustmentPartition> partitions = AdjustmentJobService.createPartitions(jobId);
+
+        assertThat(partitions).hasSize(16);
+        assertThat(partitions.get(0).getNextWalletId())
+                .isEqualTo(UUID.fromString("00000000-0000-0000-0000-000000000000"));
+        for (int i = 0; i < partitions.size(); i++) {
+            AdjustmentPartition partition = partitions.get(i);
+            assertThat(partition.getJobId()).isEqualTo(jobId);
+            assertThat(partition.getPartitionNo()).isEqualTo(i);
+            assertThat(partition.getNextWalletId().toString())
+                    .startsWith(Integer.toHexString(i))
+                    .endsWith("0000000-0000-0000-0000-000000000000");
+            assertThat(partition.getUpperBound().toString())
+                    .startsWith(Integer.toHexString(i))
+                    .endsWith("fffffff-ffff-ffff-ffff-ffffffffffff");
+            if (i > 0) {
+                assertThat(partition.getNextWalletId())
+                        .isEqualTo(AdjustmentJobService.successor(partitions.get(i - 1).getUpperBound()));
+            }
+        }
+        assertThat(partitions.get(15).getUpperBound())
+                .isEqualTo(UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+    }
+
+    @Test
+    void testSuccessorCarriesIntoMostSignificantBits() {
+        assertThat(AdjustmentJobService.successor(UUID.fromString("00000000-0000-0000-0000-000000000000")))
+                .isEqualTo(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        assertThat(AdjustmentJobService.successor(UUID.fromString("0a000000-0000-4000-7fff-ffffffffffff")))
+                .isEqualTo(UUID.fromString("0a000000-0000-4000-8000-000000000000"));
+        assertThat(AdjustmentJobService.successor(UUID.fromString("0fffffff-ffff-ffff-ffff-ffffffffffff")))
+                .isEqualTo(UUID.fromString("10000000-0000-0000-0000-000000000000"));
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.walletapi.service;
+
+import org.example.walletapi.entity.AdjustmentJob;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdjustmentRuleTest {
+
+    @Test
+    void testFixedRuleUsesAmountAsFloorAndCap() {
+        AdjustmentRule rule = AdjustmentRule.of(AdjustmentJob.builder()
+                .ruleType(AdjustmentJob.RuleType.FIXED)
+                .direction(AdjustmentJob.Direction.DEBIT)
+                .amount(new BigDecimal("25"))
+                .build());
+
+        assertThat(rule.rate()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(rule.floor()).isEqualByComparingTo("25");
+        assertThat(rule.cap()).isEqualByComparingTo("25");
+        assertThat(rule.sign()).isEqualTo(-1);
+    }
+
+    @Test
+    void testPercentageRuleDefaultsToUnboundedSelection() {
+        AdjustmentRule rule = AdjustmentRule.of(AdjustmentJob.builder()
+                .ruleType(AdjustmentJob.RuleType.PERCENTAGE)
+                .direction(AdjustmentJob.Direction.CREDIT)
+                .percent(new BigDecimal("1.5"))
+                .capAmount(new BigDecimal("1000"))
+                .minBalance(new BigDecimal("100"))
+                .build());
+
+        assertThat(rule.rate()).isEqualByComparingTo("0.015");
+        assertThat(rule.floor()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(rule.cap()).isEqualByComparingTo("1000");
+        assertThat(rule.sign()).isEqualTo(1);
+        assertThat(rule.minBalance()).isEqualByComparingTo("100");
+        assertThat(rule.maxBalance()).isEqualByComparingTo(AdjustmentRule.MAX_AMOUNT);
+    }
+}
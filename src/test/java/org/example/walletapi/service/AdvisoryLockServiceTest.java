@@ -0,0 +1,31 @@
+package org.example.walletapi.service;
+
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdvisoryLockServiceTest {
+
+    @Test
+    void testLockKeyIsStable() {
+        UUID walletId = UUID.fromString("3f2504e0-4f89-41d3-9a0c-0305e82c3301");
+
+        assertThat(AdvisoryLockService.lockKey(walletId)).isEqualTo(AdvisoryLockService.lockKey(walletId));
+    }
+
+    @Test
+    void testSwappedHalvesDoNotCollide() {
+        UUID walletId = UUID.fromString("3f2504e0-4f89-41d3-9a0c-0305e82c3301");
+        UUID swapped = new UUID(walletId.getLeastSignificantBits(), walletId.getMostSignificantBits());
+
+        assertThat(AdvisoryLockService.lockKey(swapped)).isNotEqualTo(AdvisoryLockService.lockKey(walletId));
+    }
+
+    @Test
+    void testKeyIsNotTheRawIdBits() {
+        UUID walletId = new UUID(0L, 42L);
+
+        assertThat(AdvisoryLockService.lockKey(walletId)).isNotEqualTo(42L).isNotZero();
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.walletapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    void testExpiresOnlyOnceDeadlineHasPassed() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 2, 3, 0);
+        wheel.add("hold", 55);
+
+        assertThat(wheel.advance(50)).isEmpty();
+        assertThat(wheel.advance(60)).containsExactly("hold");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void testCancelledEntryDoesNotExpire() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 2, 3, 0);
+        wheel.add("hold", 30);
+        wheel.remove("hold");
+
+        assertThat(wheel.advance(100)).isEmpty();
+    }
+
+    @Test
+    void testDeadlinesAcrossAllLevelsAndBeyond() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(10, 2, 3, 0);
+        int[] deadlines = {5, 40, 170, 630, 2000, 9000};
+        for (int i = 0; i < deadlines.length; i++) {
+            wheel.add(i, deadlines[i]);
+        }
+
+        for (int i = 0; i < deadlines.length; i++) {
+            assertThat(wheel.advance(deadlines[i] - 10)).isEmpty();
+            assertThat(wheel.advance(deadlines[i] + 9)).containsExactly(i);
+        }
+    }
+
+    @Test
+    void testPastDeadlineExpiresOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 2, 3, 1000);
+        wheel.add("hold", 500);
+
+        assertThat(wheel.advance(1000)).containsExactly("hold");
+    }
+
+    @Test
+    void testRescheduleReplacesEarlierDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 2, 3, 0);
+        wheel.add("hold", 30);
+        wheel.add("hold", 300);
+
+        assertThat(wheel.advance(100)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly("hold");
+    }
+}